@@ -0,0 +1,112 @@
+package com.dockerplatform.backend.controllers;
+
+import com.dockerplatform.backend.dto.RepositoryDetailDto;
+import com.dockerplatform.backend.dto.TagDto;
+import com.dockerplatform.backend.dto.TagPageDto;
+import com.dockerplatform.backend.dto.TagPushRequest;
+import com.dockerplatform.backend.models.Repository;
+import com.dockerplatform.backend.models.User;
+import com.dockerplatform.backend.service.RepositoryService;
+import com.dockerplatform.backend.service.UserService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/repositories")
+public class RepositoryController {
+
+    @Autowired
+    RepositoryService repositoryService;
+
+    @Autowired
+    UserService userService;
+
+    @GetMapping(path = "/{owner}/{name}")
+    public ResponseEntity<RepositoryDetailDto> getRepository(@PathVariable String owner,
+                                                             @PathVariable String name,
+                                                             @RequestParam(required = false) String tagPrefix,
+                                                             @RequestParam(defaultValue = "" + RepositoryService.DEFAULT_TAG_PAGE_SIZE) int tagPageSize,
+                                                             Authentication authentication){
+        return repositoryService.findDetail(owner, name, authentication.getName(), tagPrefix, tagPageSize)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(path = "/{owner}/{name}/tags")
+    public ResponseEntity<TagPageDto> getTags(@PathVariable String owner,
+                                              @PathVariable String name,
+                                              @RequestParam(required = false) String prefix,
+                                              @RequestParam(required = false) String cursor,
+                                              @RequestParam(defaultValue = "" + RepositoryService.DEFAULT_TAG_PAGE_SIZE) int size,
+                                              Authentication authentication){
+        try {
+            return repositoryService.findVisible(owner, name, authentication.getName())
+                    .map(repository -> ResponseEntity.ok(
+                            repositoryService.findTags(repository.getId(), prefix, cursor, size)))
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PutMapping(path = "/{owner}/{name}/tags/{tag}")
+    public ResponseEntity<TagDto> pushTag(@PathVariable String owner,
+                                          @PathVariable String name,
+                                          @PathVariable String tag,
+                                          @Valid @RequestBody TagPushRequest dto,
+                                          Authentication authentication){
+        if (!owner.equals(authentication.getName())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        try {
+            return repositoryService.findVisible(owner, name, authentication.getName())
+                    .map(repository -> ResponseEntity.ok(
+                            TagDto.from(repositoryService.pushTag(repository, tag, dto.digest(), dto.size()))))
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (DataIntegrityViolationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @GetMapping(path = "/{owner}/{name}/tags/{tag}")
+    public ResponseEntity<TagDto> pullTag(@PathVariable String owner,
+                                          @PathVariable String name,
+                                          @PathVariable String tag,
+                                          Authentication authentication){
+        return repositoryService.findVisible(owner, name, authentication.getName())
+                .flatMap(repository -> repositoryService.pullTag(repository, tag))
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @PutMapping(path = "/{owner}/{name}/star")
+    public ResponseEntity<Void> star(@PathVariable String owner,
+                                     @PathVariable String name,
+                                     Authentication authentication){
+        User user = userService.findByUsername(authentication.getName());
+        Repository repository = repositoryService.findVisible(owner, name, authentication.getName()).orElse(null);
+        if (user == null || repository == null) {
+            return ResponseEntity.notFound().build();
+        }
+        repositoryService.star(user, repository);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping(path = "/{owner}/{name}/star")
+    public ResponseEntity<Void> unstar(@PathVariable String owner,
+                                       @PathVariable String name,
+                                       Authentication authentication){
+        User user = userService.findByUsername(authentication.getName());
+        Repository repository = repositoryService.findVisible(owner, name, authentication.getName()).orElse(null);
+        if (user == null || repository == null) {
+            return ResponseEntity.notFound().build();
+        }
+        repositoryService.unstar(user, repository);
+        return ResponseEntity.noContent().build();
+    }
+}
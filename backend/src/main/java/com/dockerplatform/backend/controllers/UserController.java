@@ -1,12 +1,19 @@
 package com.dockerplatform.backend.controllers;
 
 import com.dockerplatform.backend.dto.UserDto;
+import com.dockerplatform.backend.dto.UserSummaryDto;
+import com.dockerplatform.backend.models.User;
 import com.dockerplatform.backend.models.enums.UserRole;
 import com.dockerplatform.backend.service.UserService;
+import com.dockerplatform.backend.service.UserSummaryService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.UUID;
+
 @RestController
 @RequestMapping("/user")
 public class UserController {
@@ -14,6 +21,9 @@ public class UserController {
     @Autowired
     UserService userService;
 
+    @Autowired
+    UserSummaryService userSummaryService;
+
     @PostMapping(path = "/register")
     public ResponseEntity<?> registerUser(@RequestBody UserDto userDto){
 
@@ -22,4 +32,18 @@ public class UserController {
                 .orElseGet(() -> ResponseEntity.badRequest().build());
     }
 
+    @GetMapping(path = "/{id}/summary")
+    public ResponseEntity<UserSummaryDto> getSummary(@PathVariable UUID id, Authentication authentication){
+        // Totals include private repositories, so only the owner or an admin may read them.
+        User viewer = userService.findByUsername(authentication.getName());
+        if (viewer == null || (!viewer.getId().equals(id) && viewer.getRole() == UserRole.REGULAR)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        UserSummaryDto summary = userSummaryService.findByUserId(id);
+        if (summary == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(summary);
+    }
+
 }
@@ -0,0 +1,34 @@
+package com.dockerplatform.backend.dto;
+
+import com.dockerplatform.backend.models.Repository;
+
+import java.util.UUID;
+
+public record RepositoryDetailDto(
+        UUID id,
+        String owner,
+        String name,
+        String description,
+        Long createdAt,
+        Long modifiedAt,
+        int numberOfPulls,
+        int numberOfStars,
+        boolean isPublic,
+        boolean isOfficial,
+        TagPageDto tags
+) {
+    public static RepositoryDetailDto from(Repository repository, TagPageDto tags) {
+        return new RepositoryDetailDto(
+                repository.getId(),
+                repository.getOwner().getUsername(),
+                repository.getName(),
+                repository.getDescription(),
+                repository.getCreatedAt(),
+                repository.getModifiedAt(),
+                repository.getNumberOfPulls(),
+                repository.getNumberOfStars(),
+                repository.isPublic(),
+                repository.isOfficial(),
+                tags);
+    }
+}
@@ -0,0 +1,7 @@
+package com.dockerplatform.backend.dto;
+
+public record RepositoryTotals(
+        long repositoryCount,
+        long totalStars,
+        long totalPulls
+) {}
@@ -0,0 +1,18 @@
+package com.dockerplatform.backend.dto;
+
+import com.dockerplatform.backend.models.Tag;
+
+import java.util.UUID;
+
+public record TagDto(
+        UUID id,
+        String name,
+        String digest,
+        long size,
+        Long createdAt,
+        Long pushedAt
+) {
+    public static TagDto from(Tag tag) {
+        return new TagDto(tag.getId(), tag.getName(), tag.getDigest(), tag.getSize(), tag.getCreatedAt(), tag.getPushedAt());
+    }
+}
@@ -0,0 +1,8 @@
+package com.dockerplatform.backend.dto;
+
+import java.util.List;
+
+public record TagPageDto(
+        List<TagDto> tags,
+        String nextCursor
+) {}
@@ -0,0 +1,12 @@
+package com.dockerplatform.backend.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.PositiveOrZero;
+
+public record TagPushRequest(
+        @NotBlank
+        String digest,
+
+        @PositiveOrZero
+        long size
+) {}
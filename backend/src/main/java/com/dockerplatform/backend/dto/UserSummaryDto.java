@@ -0,0 +1,25 @@
+package com.dockerplatform.backend.dto;
+
+import com.dockerplatform.backend.models.UserSummary;
+import com.dockerplatform.backend.models.enums.BadgeType;
+
+import java.util.UUID;
+
+public record UserSummaryDto(
+        UUID userId,
+        long repositoryCount,
+        long totalStars,
+        long totalPulls,
+        long totalTagSize,
+        BadgeType badge
+) {
+    public static UserSummaryDto from(UserSummary summary) {
+        return new UserSummaryDto(
+                summary.getUserId(),
+                summary.getRepositoryCount(),
+                summary.getTotalStars(),
+                summary.getTotalPulls(),
+                summary.getTotalTagSize(),
+                summary.getBadge());
+    }
+}
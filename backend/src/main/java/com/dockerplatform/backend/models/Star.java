@@ -13,6 +13,11 @@ import java.util.UUID;
 @Getter
 @Setter
 @Entity
+@Table(
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"user_id", "repository_id"})
+        }
+)
 public class Star {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
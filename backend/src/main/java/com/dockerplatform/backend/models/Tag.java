@@ -16,6 +16,9 @@ import java.util.UUID;
 @Table(
         uniqueConstraints = {
                 @UniqueConstraint(columnNames = {"repository_id", "name"}),
+        },
+        indexes = {
+                @Index(name = "idx_tag_repository_pushed_at", columnList = "repository_id, pushed_at DESC, id DESC")
         }
 )
 public class Tag {
@@ -35,6 +38,7 @@ public class Tag {
     @Column(nullable = false, updatable = false)
     private Long createdAt;
 
+    @Column(nullable = false)
     private Long pushedAt;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
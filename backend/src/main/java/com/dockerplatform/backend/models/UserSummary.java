@@ -0,0 +1,45 @@
+package com.dockerplatform.backend.models;
+
+import com.dockerplatform.backend.models.enums.BadgeType;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.UUID;
+
+/**
+ * Materialized per-user totals for profile and dashboard pages.
+ * Kept up to date incrementally by {@link com.dockerplatform.backend.service.UserSummaryService}
+ * and periodically reconciled against the source tables.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "user_summaries")
+public class UserSummary {
+    @Id
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @Column(nullable = false)
+    private long repositoryCount;
+
+    @Column(nullable = false)
+    private long totalStars;
+
+    @Column(nullable = false)
+    private long totalPulls;
+
+    @Column(nullable = false)
+    private long totalTagSize;
+
+    @Enumerated(EnumType.STRING)
+    private BadgeType badge;
+
+    private Long updatedAt;
+}
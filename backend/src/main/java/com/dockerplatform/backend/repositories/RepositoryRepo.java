@@ -1,9 +1,45 @@
 package com.dockerplatform.backend.repositories;
 
+import com.dockerplatform.backend.dto.RepositoryTotals;
 import com.dockerplatform.backend.models.Repository;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Optional;
 import java.util.UUID;
 
 public interface RepositoryRepo extends JpaRepository<Repository, UUID> {
+
+    @EntityGraph(attributePaths = "owner")
+    Optional<Repository> findByOwnerUsernameAndName(String ownerUsername, String name);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from Repository r where r.id = :id")
+    Optional<Repository> findForUpdate(@Param("id") UUID id);
+
+    @Query("""
+            select new com.dockerplatform.backend.dto.RepositoryTotals(
+                count(r), coalesce(sum(r.numberOfStars), 0), coalesce(sum(r.numberOfPulls), 0))
+            from Repository r
+            where r.owner.id = :ownerId
+            """)
+    RepositoryTotals totalsByOwner(@Param("ownerId") UUID ownerId);
+
+    // Counters are bumped in place so concurrent pulls and stars never overwrite each other.
+    @Modifying
+    @Query("update Repository r set r.numberOfPulls = r.numberOfPulls + 1 where r.id = :id")
+    int incrementPulls(@Param("id") UUID id);
+
+    @Modifying
+    @Query("update Repository r set r.numberOfStars = r.numberOfStars + :delta where r.id = :id")
+    int adjustStars(@Param("id") UUID id, @Param("delta") int delta);
+
+    @Modifying
+    @Query("update Repository r set r.modifiedAt = :modifiedAt where r.id = :id")
+    int touch(@Param("id") UUID id, @Param("modifiedAt") long modifiedAt);
 }
@@ -2,8 +2,17 @@ package com.dockerplatform.backend.repositories;
 
 import com.dockerplatform.backend.models.Star;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Optional;
 import java.util.UUID;
 
 public interface StarRepo extends JpaRepository<Star, UUID> {
+    Optional<Star> findByUserIdAndRepositoryId(UUID userId, UUID repositoryId);
+
+    @Modifying
+    @Query("delete from Star s where s.repository.id = :repositoryId")
+    int deleteByRepository(@Param("repositoryId") UUID repositoryId);
 }
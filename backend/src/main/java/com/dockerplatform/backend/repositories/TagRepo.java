@@ -1,9 +1,63 @@
 package com.dockerplatform.backend.repositories;
 
+import com.dockerplatform.backend.dto.TagDto;
 import com.dockerplatform.backend.models.Tag;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface TagRepo extends JpaRepository<Tag, UUID> {
+    Optional<Tag> findByRepositoryIdAndName(UUID repositoryId, String name);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Tag t where t.repository.id = :repositoryId and t.name = :name")
+    Optional<Tag> findForUpdate(@Param("repositoryId") UUID repositoryId, @Param("name") String name);
+
+    // Keyset pages over idx_tag_repository_pushed_at, newest push first; namePattern is a LIKE prefix pattern escaped with '!'.
+    @Query("""
+            select new com.dockerplatform.backend.dto.TagDto(t.id, t.name, t.digest, t.size, t.createdAt, t.pushedAt)
+            from Tag t
+            where t.repository.id = :repositoryId
+              and t.name like :namePattern escape '!'
+            order by t.pushedAt desc, t.id desc
+            """)
+    List<TagDto> findFirstPage(@Param("repositoryId") UUID repositoryId,
+                               @Param("namePattern") String namePattern,
+                               Limit limit);
+
+    @Query("""
+            select new com.dockerplatform.backend.dto.TagDto(t.id, t.name, t.digest, t.size, t.createdAt, t.pushedAt)
+            from Tag t
+            where t.repository.id = :repositoryId
+              and t.name like :namePattern escape '!'
+              and (t.pushedAt < :pushedAt or (t.pushedAt = :pushedAt and t.id < :id))
+            order by t.pushedAt desc, t.id desc
+            """)
+    List<TagDto> findPageAfter(@Param("repositoryId") UUID repositoryId,
+                               @Param("namePattern") String namePattern,
+                               @Param("pushedAt") long pushedAt,
+                               @Param("id") UUID id,
+                               Limit limit);
+
+    @Modifying
+    @Query("update Tag t set t.pushedAt = t.createdAt where t.pushedAt is null")
+    int backfillPushedAt();
+
+    @Query("select coalesce(sum(t.size), 0) from Tag t where t.repository.owner.id = :ownerId")
+    long totalSizeByOwner(@Param("ownerId") UUID ownerId);
+
+    @Query("select coalesce(sum(t.size), 0) from Tag t where t.repository.id = :repositoryId")
+    long totalSizeByRepository(@Param("repositoryId") UUID repositoryId);
+
+    @Modifying
+    @Query("delete from Tag t where t.repository.id = :repositoryId")
+    int deleteByRepository(@Param("repositoryId") UUID repositoryId);
 }
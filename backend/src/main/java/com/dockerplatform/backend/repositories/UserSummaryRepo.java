@@ -0,0 +1,51 @@
+package com.dockerplatform.backend.repositories;
+
+import com.dockerplatform.backend.models.UserSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface UserSummaryRepo extends JpaRepository<UserSummary, UUID> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from UserSummary s where s.userId = :userId")
+    Optional<UserSummary> findForUpdate(@Param("userId") UUID userId);
+
+    @Modifying
+    @Query("""
+            update UserSummary s
+            set s.repositoryCount = s.repositoryCount + :repositories,
+                s.totalStars = s.totalStars + :stars,
+                s.totalPulls = s.totalPulls + :pulls,
+                s.totalTagSize = s.totalTagSize + :tagSize,
+                s.updatedAt = :now
+            where s.userId = :userId
+            """)
+    int applyDelta(@Param("userId") UUID userId,
+                   @Param("repositories") long repositories,
+                   @Param("stars") long stars,
+                   @Param("pulls") long pulls,
+                   @Param("tagSize") long tagSize,
+                   @Param("now") long now);
+
+    // Creates the row for a user that predates summaries; a concurrent creator wins silently.
+    @Modifying
+    @Query(value = """
+            insert into user_summaries (user_id, repository_count, total_stars, total_pulls, total_tag_size, badge, updated_at)
+            values (:userId, :repositories, :stars, :pulls, :tagSize, cast(:badge as varchar), :now)
+            on conflict do nothing
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("userId") UUID userId,
+                       @Param("repositories") long repositories,
+                       @Param("stars") long stars,
+                       @Param("pulls") long pulls,
+                       @Param("tagSize") long tagSize,
+                       @Param("badge") String badge,
+                       @Param("now") long now);
+}
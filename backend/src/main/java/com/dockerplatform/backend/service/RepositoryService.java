@@ -0,0 +1,256 @@
+package com.dockerplatform.backend.service;
+
+import com.dockerplatform.backend.dto.RepositoryDetailDto;
+import com.dockerplatform.backend.dto.TagDto;
+import com.dockerplatform.backend.dto.TagPageDto;
+import com.dockerplatform.backend.models.Repository;
+import com.dockerplatform.backend.models.Star;
+import com.dockerplatform.backend.models.Tag;
+import com.dockerplatform.backend.models.User;
+import com.dockerplatform.backend.repositories.RepositoryRepo;
+import com.dockerplatform.backend.repositories.StarRepo;
+import com.dockerplatform.backend.repositories.TagRepo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Write paths for repositories, tags, stars and pulls. Every change is reported to
+ * {@link UserSummaryService} in the same transaction so the owner's summary stays current.
+ */
+@Service
+public class RepositoryService {
+
+    public static final int DEFAULT_TAG_PAGE_SIZE = 25;
+    public static final int MAX_TAG_PAGE_SIZE = 100;
+
+    private static final Logger logger = LoggerFactory.getLogger(RepositoryService.class);
+
+    @Autowired
+    RepositoryRepo repositoryRepo;
+
+    @Autowired
+    TagRepo tagRepo;
+
+    @Autowired
+    StarRepo starRepo;
+
+    @Autowired
+    UserSummaryService userSummaryService;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    /**
+     * Gives tags from before pushedAt was required a push time, so keyset paging never meets a
+     * null. ddl-auto=update does not add NOT NULL to an existing column, so this runs on every start.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillPushedAt() {
+        int updated = tagRepo.backfillPushedAt();
+        if (updated > 0) {
+            logger.info("[Repository] Backfilled pushedAt on {} tags", updated);
+        }
+    }
+
+    /**
+     * Loads a repository together with its owner in a single query. Private repositories are
+     * only visible to their owner.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Repository> findVisible(String ownerUsername, String name, String viewerUsername) {
+        return repositoryRepo.findByOwnerUsernameAndName(ownerUsername, name)
+                .filter(repository -> repository.isPublic()
+                        || repository.getOwner().getUsername().equals(viewerUsername));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<RepositoryDetailDto> findDetail(String ownerUsername, String name, String viewerUsername,
+                                                    String tagPrefix, int tagPageSize) {
+        return findVisible(ownerUsername, name, viewerUsername)
+                .map(repository -> RepositoryDetailDto.from(repository,
+                        findTags(repository.getId(), tagPrefix, null, tagPageSize)));
+    }
+
+    /**
+     * Returns one page of tags ordered by most recent push. The cursor is the opaque
+     * {@code nextCursor} of the previous page, or null for the first page.
+     *
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    @Transactional(readOnly = true)
+    public TagPageDto findTags(UUID repositoryId, String prefix, String cursor, int pageSize) {
+        int size = Math.max(1, Math.min(pageSize, MAX_TAG_PAGE_SIZE));
+        String namePattern = likePrefix(prefix);
+        // Fetch one extra row to know whether another page exists.
+        Limit limit = Limit.of(size + 1);
+
+        List<TagDto> tags;
+        if (cursor == null || cursor.isBlank()) {
+            tags = tagRepo.findFirstPage(repositoryId, namePattern, limit);
+        } else {
+            TagCursor after = TagCursor.decode(cursor);
+            tags = tagRepo.findPageAfter(repositoryId, namePattern, after.pushedAt(), after.id(), limit);
+        }
+
+        if (tags.size() <= size) {
+            return new TagPageDto(tags, null);
+        }
+        List<TagDto> page = tags.subList(0, size);
+        TagDto last = page.get(size - 1);
+        return new TagPageDto(List.copyOf(page), new TagCursor(last.pushedAt(), last.id()).encode());
+    }
+
+    @Transactional
+    public Repository create(User owner, String name, String description, boolean isPublic) {
+        long now = System.currentTimeMillis();
+        Repository repository = new Repository();
+        repository.setOwner(owner);
+        repository.setName(name);
+        repository.setDescription(description);
+        repository.setPublic(isPublic);
+        repository.setCreatedAt(now);
+        repository.setModifiedAt(now);
+        Repository saved = repositoryRepo.save(repository);
+        userSummaryService.repositoryCreated(owner.getId());
+        return saved;
+    }
+
+    @Transactional
+    public void delete(Repository repository) {
+        // Lock the row so no pull or star can add to the counters between this read and the delete.
+        Repository current = repositoryRepo.findForUpdate(repository.getId()).orElseThrow();
+        long tagSize = tagRepo.totalSizeByRepository(current.getId());
+        UUID ownerId = current.getOwner().getId();
+        starRepo.deleteByRepository(current.getId());
+        tagRepo.deleteByRepository(current.getId());
+        repositoryRepo.delete(current);
+        userSummaryService.repositoryDeleted(ownerId,
+                current.getNumberOfStars(), current.getNumberOfPulls(), tagSize);
+    }
+
+    /**
+     * Creates or overwrites a tag. A concurrent first push of the same tag name is retried once,
+     * at which point the row exists and is locked like any re-push.
+     *
+     * @throws DataIntegrityViolationException if the retry collides again
+     */
+    public Tag pushTag(Repository repository, String name, String digest, long size) {
+        try {
+            return transactionTemplate.execute(status -> pushTagLocked(repository, name, digest, size));
+        } catch (DataIntegrityViolationException e) {
+            return transactionTemplate.execute(status -> pushTagLocked(repository, name, digest, size));
+        }
+    }
+
+    private Tag pushTagLocked(Repository repository, String name, String digest, long size) {
+        long now = System.currentTimeMillis();
+        // Lock the existing row so concurrent re-pushes compute their size delta one after another.
+        Tag tag = tagRepo.findForUpdate(repository.getId(), name).orElse(null);
+        long sizeDelta;
+        if (tag == null) {
+            tag = new Tag();
+            tag.setRepository(repository);
+            tag.setName(name);
+            tag.setCreatedAt(now);
+            sizeDelta = size;
+        } else {
+            sizeDelta = size - tag.getSize();
+        }
+        tag.setDigest(digest);
+        tag.setSize(size);
+        tag.setPushedAt(now);
+        Tag saved = tagRepo.saveAndFlush(tag);
+        repositoryRepo.touch(repository.getId(), now);
+        userSummaryService.tagSizeChanged(repository.getOwner().getId(), sizeDelta);
+        return saved;
+    }
+
+    @Transactional
+    public Optional<TagDto> pullTag(Repository repository, String tagName) {
+        return tagRepo.findByRepositoryIdAndName(repository.getId(), tagName)
+                // No row updated means the repository was deleted meanwhile; its pulls left the summary with it.
+                .filter(tag -> repositoryRepo.incrementPulls(repository.getId()) == 1)
+                .map(tag -> {
+                    userSummaryService.pulled(repository.getOwner().getId());
+                    return TagDto.from(tag);
+                });
+    }
+
+    /**
+     * Stars a repository once per user.
+     *
+     * @return false if the user had already starred it
+     */
+    public boolean star(User user, Repository repository) {
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                if (starRepo.findByUserIdAndRepositoryId(user.getId(), repository.getId()).isPresent()) {
+                    return false;
+                }
+                // Flush first so a concurrent duplicate fails here, before any counter is touched.
+                starRepo.saveAndFlush(new Star(null, user, repository));
+                repositoryRepo.adjustStars(repository.getId(), 1);
+                userSummaryService.starsChanged(repository.getOwner().getId(), 1);
+                return true;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            // Lost the race against a concurrent star by the same user.
+            return false;
+        }
+    }
+
+    @Transactional
+    public boolean unstar(User user, Repository repository) {
+        return starRepo.findByUserIdAndRepositoryId(user.getId(), repository.getId())
+                .map(star -> {
+                    starRepo.delete(star);
+                    if (repositoryRepo.adjustStars(repository.getId(), -1) == 1) {
+                        userSummaryService.starsChanged(repository.getOwner().getId(), -1);
+                    }
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    private static String likePrefix(String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            return "%";
+        }
+        // '!' rather than backslash, which HQL string literals and some databases treat specially.
+        return prefix.replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_") + "%";
+    }
+
+    private record TagCursor(long pushedAt, UUID id) {
+
+        String encode() {
+            String raw = pushedAt + ":" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static TagCursor decode(String cursor) {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Malformed tag cursor");
+            }
+            return new TagCursor(Long.parseLong(raw.substring(0, separator)), UUID.fromString(raw.substring(separator + 1)));
+        }
+    }
+}
@@ -14,6 +14,7 @@ import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -25,11 +26,15 @@ public class UserService  {
 
     @Autowired
     BCryptPasswordEncoder bCryptPasswordEncoder;
+
+    @Autowired
+    UserSummaryService userSummaryService;
     
     public User findByUsername(String username){
         return userRepo.findByUsername(username).orElse(null);
     }
     
+    @Transactional
     public Optional<User> register(UserDto dto, UserRole role){
 
         if (userRepo.findByUsername(dto.getUsername()).isPresent()){
@@ -42,6 +47,7 @@ public class UserService  {
         user.setEmail(dto.getEmail());
         user.setRole(role);
         User save = userRepo.save(user);
+        userSummaryService.createFor(save);
 
         return  Optional.of(save);
     }
@@ -0,0 +1,237 @@
+package com.dockerplatform.backend.service;
+
+import com.dockerplatform.backend.dto.RepositoryTotals;
+import com.dockerplatform.backend.dto.UserSummaryDto;
+import com.dockerplatform.backend.models.User;
+import com.dockerplatform.backend.models.UserSummary;
+import com.dockerplatform.backend.repositories.RepositoryRepo;
+import com.dockerplatform.backend.repositories.TagRepo;
+import com.dockerplatform.backend.repositories.UserRepo;
+import com.dockerplatform.backend.repositories.UserSummaryRepo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Maintains {@link UserSummary} rows. Writers report deltas in the same transaction as the
+ * change they describe; {@link #reconcileAll()} recomputes every row to repair drift.
+ */
+@Service
+public class UserSummaryService {
+
+    public static final String CACHE_NAME = "userSummaries";
+
+    private static final Logger logger = LoggerFactory.getLogger(UserSummaryService.class);
+
+    private static final int RECONCILE_PAGE_SIZE = 500;
+
+    @Autowired
+    UserSummaryRepo userSummaryRepo;
+
+    @Autowired
+    UserRepo userRepo;
+
+    @Autowired
+    RepositoryRepo repositoryRepo;
+
+    @Autowired
+    TagRepo tagRepo;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    // Reconciliation always commits on its own, independently of any caller's transaction.
+    private final TransactionTemplate reconcileTransaction;
+
+    public UserSummaryService(PlatformTransactionManager transactionManager) {
+        reconcileTransaction = new TransactionTemplate(transactionManager);
+        reconcileTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Returns the summary of a user, building it on first access for users that predate summaries.
+     */
+    @Cacheable(cacheNames = CACHE_NAME, unless = "#result == null")
+    public UserSummaryDto findByUserId(UUID userId) {
+        return userSummaryRepo.findById(userId)
+                .or(() -> {
+                    reconcile(userId);
+                    return userSummaryRepo.findById(userId);
+                })
+                .map(UserSummaryDto::from)
+                .orElse(null);
+    }
+
+    @Transactional
+    public void createFor(User user) {
+        userSummaryRepo.save(new UserSummary(user.getId(), 0, 0, 0, 0, user.getBadge(), System.currentTimeMillis()));
+    }
+
+    @Transactional
+    public void repositoryCreated(UUID ownerId) {
+        applyDelta(ownerId, 1, 0, 0, 0);
+    }
+
+    @Transactional
+    public void repositoryDeleted(UUID ownerId, long stars, long pulls, long tagSize) {
+        applyDelta(ownerId, -1, -stars, -pulls, -tagSize);
+    }
+
+    @Transactional
+    public void tagSizeChanged(UUID ownerId, long sizeDelta) {
+        applyDelta(ownerId, 0, 0, 0, sizeDelta);
+    }
+
+    @Transactional
+    public void starsChanged(UUID ownerId, long starDelta) {
+        applyDelta(ownerId, 0, starDelta, 0, 0);
+    }
+
+    @Transactional
+    public void pulled(UUID ownerId) {
+        applyDelta(ownerId, 0, 0, 1, 0);
+    }
+
+    /**
+     * Recomputes the summary of a single user from the source tables in its own transaction.
+     *
+     * @return true if the stored row was missing or differed from the recomputed values
+     */
+    public boolean reconcile(UUID userId) {
+        try {
+            return Boolean.TRUE.equals(reconcileTransaction.execute(status -> reconcileLocked(userId)));
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent transaction created the row first; it exists now and can be locked.
+            return Boolean.TRUE.equals(reconcileTransaction.execute(status -> reconcileLocked(userId)));
+        }
+    }
+
+    @Scheduled(cron = "${user-summary.reconcile.cron:0 0 3 * * *}")
+    public void reconcileAll() {
+        int fixed = 0;
+        Page<User> page = userRepo.findAll(PageRequest.of(0, RECONCILE_PAGE_SIZE, Sort.by("id")));
+        while (true) {
+            for (User user : page) {
+                if (reconcile(user.getId())) {
+                    fixed++;
+                }
+            }
+            if (!page.hasNext()) {
+                break;
+            }
+            page = userRepo.findAll(page.nextPageable());
+        }
+        logger.info("[UserSummary] Reconciled {} users, fixed {}", page.getTotalElements(), fixed);
+    }
+
+    private boolean reconcileLocked(UUID userId) {
+        User user = userRepo.findById(userId).orElse(null);
+        if (user == null) {
+            return false;
+        }
+
+        // Lock the row before reading the totals: a delta committed earlier is already in the totals,
+        // and one arriving later waits for this transaction and is applied on top of the result.
+        Optional<UserSummary> existing = userSummaryRepo.findForUpdate(userId);
+        RepositoryTotals totals = repositoryRepo.totalsByOwner(userId);
+        long tagSize = tagRepo.totalSizeByOwner(userId);
+
+        UserSummary summary = existing.orElseGet(() -> {
+            UserSummary created = new UserSummary();
+            created.setUserId(userId);
+            return created;
+        });
+
+        boolean drifted = existing.isEmpty()
+                || summary.getRepositoryCount() != totals.repositoryCount()
+                || summary.getTotalStars() != totals.totalStars()
+                || summary.getTotalPulls() != totals.totalPulls()
+                || summary.getTotalTagSize() != tagSize
+                || summary.getBadge() != user.getBadge();
+        if (!drifted) {
+            return false;
+        }
+
+        if (existing.isPresent()) {
+            logger.warn("[UserSummary] Drift for user {}: repositories {}->{}, stars {}->{}, pulls {}->{}, tag size {}->{}",
+                    userId,
+                    summary.getRepositoryCount(), totals.repositoryCount(),
+                    summary.getTotalStars(), totals.totalStars(),
+                    summary.getTotalPulls(), totals.totalPulls(),
+                    summary.getTotalTagSize(), tagSize);
+        }
+        summary.setRepositoryCount(totals.repositoryCount());
+        summary.setTotalStars(totals.totalStars());
+        summary.setTotalPulls(totals.totalPulls());
+        summary.setTotalTagSize(tagSize);
+        summary.setBadge(user.getBadge());
+        summary.setUpdatedAt(System.currentTimeMillis());
+        // Flush here so a primary key collision on insert surfaces inside reconcile's retry.
+        userSummaryRepo.saveAndFlush(summary);
+        evictAfterCommit(userId);
+        return true;
+    }
+
+    private void applyDelta(UUID ownerId, long repositories, long stars, long pulls, long tagSize) {
+        long now = System.currentTimeMillis();
+        if (userSummaryRepo.applyDelta(ownerId, repositories, stars, pulls, tagSize, now) == 0
+                && !insertMissing(ownerId, now)) {
+            // Another transaction created the row from totals that cannot see this change yet.
+            userSummaryRepo.applyDelta(ownerId, repositories, stars, pulls, tagSize, now);
+        }
+        evictAfterCommit(ownerId);
+    }
+
+    /**
+     * Creates the summary of a user that predates summaries, inside the caller's transaction.
+     * The totals are read after the caller's change, so they already include it.
+     *
+     * @return true if this call created the row
+     */
+    private boolean insertMissing(UUID userId, long now) {
+        User user = userRepo.findById(userId).orElse(null);
+        if (user == null) {
+            return true;
+        }
+        RepositoryTotals totals = repositoryRepo.totalsByOwner(userId);
+        long tagSize = tagRepo.totalSizeByOwner(userId);
+        String badge = user.getBadge() == null ? null : user.getBadge().name();
+        return userSummaryRepo.insertIfAbsent(userId, totals.repositoryCount(), totals.totalStars(),
+                totals.totalPulls(), tagSize, badge, now) == 1;
+    }
+
+    private void evictAfterCommit(UUID userId) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.evict(userId);
+                }
+            });
+        } else {
+            cache.evict(userId);
+        }
+    }
+}
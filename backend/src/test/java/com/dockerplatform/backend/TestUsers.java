@@ -0,0 +1,31 @@
+package com.dockerplatform.backend;
+
+import com.dockerplatform.backend.dto.UserDto;
+import com.dockerplatform.backend.models.User;
+import com.dockerplatform.backend.models.enums.UserRole;
+import com.dockerplatform.backend.service.UserService;
+
+import java.util.UUID;
+
+/**
+ * Registration fixture shared by tests that run against a real application context.
+ */
+public final class TestUsers {
+
+    private TestUsers() {
+    }
+
+    /** Registers a user whose username and email are unique per call. */
+    public static User register(UserService userService, String prefix, UserRole role) {
+        String username = prefix + "-" + UUID.randomUUID();
+        UserDto dto = new UserDto();
+        dto.setUsername(username);
+        dto.setEmail(username + "@test.local");
+        dto.setPassword("password");
+        return userService.register(dto, role).orElseThrow();
+    }
+
+    public static User register(UserService userService, String prefix) {
+        return register(userService, prefix, UserRole.REGULAR);
+    }
+}
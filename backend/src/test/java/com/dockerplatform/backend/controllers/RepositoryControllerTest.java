@@ -0,0 +1,119 @@
+package com.dockerplatform.backend.controllers;
+
+import com.dockerplatform.backend.TestUsers;
+import com.dockerplatform.backend.models.Repository;
+import com.dockerplatform.backend.models.User;
+import com.dockerplatform.backend.repositories.RepositoryRepo;
+import com.dockerplatform.backend.security.JwtService;
+import com.dockerplatform.backend.service.RepositoryService;
+import com.dockerplatform.backend.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:h2.properties")
+class RepositoryControllerTest {
+
+    private static final String PUSH_BODY = "{\"digest\":\"sha256:abc\",\"size\":1024}";
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    RepositoryService repositoryService;
+
+    @Autowired
+    RepositoryRepo repositoryRepo;
+
+    @Autowired
+    JwtService jwtService;
+
+    private User owner;
+    private User visitor;
+    private Repository repository;
+
+    @BeforeEach
+    void seed() {
+        owner = TestUsers.register(userService, "owner");
+        visitor = TestUsers.register(userService, "visitor");
+        repository = repositoryService.create(owner, "app", "Test repository", true);
+    }
+
+    @Test
+    void ownerPushesTagAndAnyonePullsIt() throws Exception {
+        mockMvc.perform(put(tagPath("1.0")).header("Authorization", bearer(owner))
+                        .contentType(MediaType.APPLICATION_JSON).content(PUSH_BODY))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("1.0"))
+                .andExpect(jsonPath("$.size").value(1024));
+
+        mockMvc.perform(get(tagPath("1.0")).header("Authorization", bearer(visitor)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.digest").value("sha256:abc"));
+
+        assertEquals(1, repositoryRepo.findById(repository.getId()).orElseThrow().getNumberOfPulls());
+    }
+
+    @Test
+    void pushToSomeoneElsesRepositoryIsForbidden() throws Exception {
+        mockMvc.perform(put(tagPath("1.0")).header("Authorization", bearer(visitor))
+                        .contentType(MediaType.APPLICATION_JSON).content(PUSH_BODY))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void pullOfMissingTagIsNotFound() throws Exception {
+        mockMvc.perform(get(tagPath("missing")).header("Authorization", bearer(visitor)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void starIsIdempotentAndUnstarRemovesIt() throws Exception {
+        String starPath = repositoryPath() + "/star";
+        mockMvc.perform(put(starPath).header("Authorization", bearer(visitor)))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(put(starPath).header("Authorization", bearer(visitor)))
+                .andExpect(status().isNoContent());
+        assertEquals(1, repositoryRepo.findById(repository.getId()).orElseThrow().getNumberOfStars());
+
+        mockMvc.perform(delete(starPath).header("Authorization", bearer(visitor)))
+                .andExpect(status().isNoContent());
+        assertEquals(0, repositoryRepo.findById(repository.getId()).orElseThrow().getNumberOfStars());
+    }
+
+    @Test
+    void malformedTagCursorIsBadRequest() throws Exception {
+        mockMvc.perform(get(repositoryPath() + "/tags").param("cursor", "%%%")
+                        .header("Authorization", bearer(visitor)))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String repositoryPath() {
+        return "/repositories/" + owner.getUsername() + "/" + repository.getName();
+    }
+
+    private String tagPath(String tag) {
+        return repositoryPath() + "/tags/" + tag;
+    }
+
+    private String bearer(User user) {
+        return "Bearer " + jwtService.generateToken(user);
+    }
+}
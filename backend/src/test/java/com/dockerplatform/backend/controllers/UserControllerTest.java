@@ -0,0 +1,69 @@
+package com.dockerplatform.backend.controllers;
+
+import com.dockerplatform.backend.TestUsers;
+import com.dockerplatform.backend.models.User;
+import com.dockerplatform.backend.models.enums.UserRole;
+import com.dockerplatform.backend.security.JwtService;
+import com.dockerplatform.backend.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:h2.properties")
+class UserControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    JwtService jwtService;
+
+    private User owner;
+
+    @BeforeEach
+    void seed() {
+        owner = TestUsers.register(userService, "owner");
+    }
+
+    @Test
+    void ownerReadsOwnSummary() throws Exception {
+        mockMvc.perform(get(summaryPath(owner)).header("Authorization", bearer(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.repositoryCount").value(0));
+    }
+
+    @Test
+    void adminReadsAnySummary() throws Exception {
+        User admin = TestUsers.register(userService, "admin", UserRole.ADMIN);
+        mockMvc.perform(get(summaryPath(owner)).header("Authorization", bearer(admin)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void otherUsersSummaryIsForbidden() throws Exception {
+        User visitor = TestUsers.register(userService, "visitor");
+        mockMvc.perform(get(summaryPath(owner)).header("Authorization", bearer(visitor)))
+                .andExpect(status().isForbidden());
+    }
+
+    private String summaryPath(User user) {
+        return "/user/" + user.getId() + "/summary";
+    }
+
+    private String bearer(User user) {
+        return "Bearer " + jwtService.generateToken(user);
+    }
+}
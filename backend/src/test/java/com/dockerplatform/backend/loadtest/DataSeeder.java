@@ -0,0 +1,183 @@
+package com.dockerplatform.backend.loadtest;
+
+import com.dockerplatform.backend.models.User;
+import com.dockerplatform.backend.models.enums.BadgeType;
+import com.dockerplatform.backend.models.enums.UserRole;
+import com.dockerplatform.backend.security.JwtService;
+import com.dockerplatform.backend.service.UserSummaryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk-inserts users, repositories, tags and stars with plain JDBC batches, then rebuilds the
+ * user summaries. Names carry a per-run suffix so repeated runs against a persistent database
+ * do not collide.
+ */
+class DataSeeder {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataSeeder.class);
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String PASSWORD = "loadtest-password";
+    private static final String[] TAG_VARIANTS = {"", "-alpine", "-slim", "-bookworm"};
+    private static final long YEAR_MILLIS = TimeUnit.DAYS.toMillis(365);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final JwtService jwtService;
+    private final UserSummaryService userSummaryService;
+
+    DataSeeder(JdbcTemplate jdbcTemplate, BCryptPasswordEncoder passwordEncoder,
+               JwtService jwtService, UserSummaryService userSummaryService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.jwtService = jwtService;
+        this.userSummaryService = userSummaryService;
+    }
+
+    SeedData seed(LoadTestProperties.Seed config) {
+        long started = System.currentTimeMillis();
+        SplittableRandom random = new SplittableRandom(config.getRandomSeed());
+        String run = Long.toString(started, 36);
+        long now = started;
+        // Hashing once keeps seeding fast; logins still pay the full BCrypt cost on the server.
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+
+        List<Object[]> userRows = new ArrayList<>();
+        List<Object[]> repositoryRows = new ArrayList<>();
+        List<Object[]> tagRows = new ArrayList<>();
+
+        List<SeedData.SeededUser> users = new ArrayList<>();
+        List<SeedData.SeededRepository> publicRepositories = new ArrayList<>();
+        List<SeedData.SeededRepository> officialRepositories = new ArrayList<>();
+        List<UUID> publicRepositoryIds = new ArrayList<>();
+        Map<UUID, Object[]> repositoryRowsById = new HashMap<>();
+
+        UUID libraryId = UUID.randomUUID();
+        String library = "library-" + run;
+        userRows.add(new Object[]{libraryId, library, passwordHash, library + "@loadtest.local",
+                UserRole.ADMIN.name(), BadgeType.DOCKER_OFFICIAL_IMAGE.name()});
+        for (int i = 0; i < config.getOfficialRepositories(); i++) {
+            UUID repositoryId = UUID.randomUUID();
+            String name = "official-" + i;
+            long createdAt = now - random.nextLong(YEAR_MILLIS);
+            Object[] row = {repositoryId, name, libraryId, "Official image " + i, createdAt, now,
+                    random.nextInt(1_000_000), 0, true, true};
+            repositoryRows.add(row);
+            repositoryRowsById.put(repositoryId, row);
+            List<String> tags = addTags(tagRows, repositoryId, config.getTagsPerOfficialRepository(), createdAt, now, random);
+            SeedData.SeededRepository repository = new SeedData.SeededRepository(library, name, tags);
+            officialRepositories.add(repository);
+            publicRepositories.add(repository);
+            publicRepositoryIds.add(repositoryId);
+        }
+
+        for (int u = 0; u < config.getUsers(); u++) {
+            UUID userId = UUID.randomUUID();
+            String username = "user-" + u + "-" + run;
+            userRows.add(new Object[]{userId, username, passwordHash, username + "@loadtest.local",
+                    UserRole.REGULAR.name(), null});
+
+            List<SeedData.SeededRepository> owned = new ArrayList<>();
+            for (int r = 0; r < config.getRepositoriesPerUser(); r++) {
+                UUID repositoryId = UUID.randomUUID();
+                String name = "app-" + r;
+                boolean isPublic = random.nextInt(10) != 0;
+                long createdAt = now - random.nextLong(YEAR_MILLIS);
+                Object[] row = {repositoryId, name, userId, "Repository " + r + " of " + username, createdAt, now,
+                        random.nextInt(10_000), 0, isPublic, false};
+                repositoryRows.add(row);
+                repositoryRowsById.put(repositoryId, row);
+                List<String> tags = addTags(tagRows, repositoryId, config.getTagsPerRepository(), createdAt, now, random);
+                SeedData.SeededRepository repository = new SeedData.SeededRepository(username, name, tags);
+                owned.add(repository);
+                if (isPublic) {
+                    publicRepositories.add(repository);
+                    publicRepositoryIds.add(repositoryId);
+                }
+            }
+            users.add(new SeedData.SeededUser(userId, username, token(userId, username), owned));
+        }
+
+        List<Object[]> starRows = new ArrayList<>();
+        for (SeedData.SeededUser user : users) {
+            int stars = Math.min(config.getStarsPerUser(), publicRepositoryIds.size());
+            Set<Integer> picked = new HashSet<>();
+            while (picked.size() < stars) {
+                picked.add(random.nextInt(publicRepositoryIds.size()));
+            }
+            for (int index : picked) {
+                UUID repositoryId = publicRepositoryIds.get(index);
+                starRows.add(new Object[]{UUID.randomUUID(), user.id(), repositoryId});
+                Object[] row = repositoryRowsById.get(repositoryId);
+                row[7] = (int) row[7] + 1;
+            }
+        }
+
+        batch("insert into users (id, username, password, email, role, badge) values (?, ?, ?, ?, ?, ?)", userRows);
+        batch("""
+                insert into repository (id, name, owner_id, description, created_at, modified_at,
+                                        number_of_pulls, number_of_stars, is_public, is_official)
+                values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, repositoryRows);
+        batch("""
+                insert into tag (id, name, digest, size, created_at, pushed_at, repository_id)
+                values (?, ?, ?, ?, ?, ?, ?)
+                """, tagRows);
+        batch("insert into star (id, user_id, repository_id) values (?, ?, ?)", starRows);
+        userSummaryService.reconcileAll();
+
+        logger.info("[LoadTest] Seeded {} users, {} repositories, {} tags, {} stars in {} ms",
+                userRows.size(), repositoryRows.size(), tagRows.size(), starRows.size(),
+                System.currentTimeMillis() - started);
+        return new SeedData(PASSWORD, List.copyOf(users), List.copyOf(publicRepositories), List.copyOf(officialRepositories));
+    }
+
+    private List<String> addTags(List<Object[]> tagRows, UUID repositoryId, int count,
+                                 long repositoryCreatedAt, long now, SplittableRandom random) {
+        List<String> names = new ArrayList<>(count);
+        byte[] digest = new byte[32];
+        for (int i = 0; i < count; i++) {
+            int version = i / TAG_VARIANTS.length;
+            String name = (version / 100) + "." + (version / 10 % 10) + "." + (version % 10)
+                    + TAG_VARIANTS[i % TAG_VARIANTS.length];
+            for (int b = 0; b < digest.length; b++) {
+                digest[b] = (byte) random.nextInt(256);
+            }
+            long createdAt = repositoryCreatedAt + random.nextLong(Math.max(1, now - repositoryCreatedAt));
+            long pushedAt = createdAt + random.nextLong(Math.max(1, now - createdAt));
+            long size = 5_000_000L + random.nextLong(500_000_000L);
+            tagRows.add(new Object[]{UUID.randomUUID(), name, "sha256:" + HexFormat.of().formatHex(digest),
+                    size, createdAt, pushedAt, repositoryId});
+            names.add(name);
+        }
+        return List.copyOf(names);
+    }
+
+    private String token(UUID id, String username) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        user.setRole(UserRole.REGULAR);
+        return jwtService.generateToken(user);
+    }
+
+    private void batch(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + BATCH_SIZE)));
+        }
+    }
+}
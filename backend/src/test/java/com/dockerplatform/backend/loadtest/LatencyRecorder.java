@@ -0,0 +1,102 @@
+package com.dockerplatform.backend.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-operation latency histograms in microseconds. Latency is measured from the intended start
+ * time of a request, so time spent waiting behind a slow server is counted.
+ */
+class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final LongAdder abandoned = new LongAdder();
+
+    LatencyRecorder() {
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    void record(Operation operation, long latencyNanos, boolean success) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS);
+        histograms.get(operation).recordValue(micros);
+        if (!success) {
+            errors.get(operation).increment();
+        }
+    }
+
+    /** Records a request that was still queued when the run had to give up on it. */
+    void recordAbandoned(Operation operation, long ageNanos) {
+        record(operation, ageNanos, false);
+        abandoned.increment();
+    }
+
+    long abandoned() {
+        return abandoned.sum();
+    }
+
+    long count(Operation operation) {
+        return histograms.get(operation).getTotalCount();
+    }
+
+    double errorRate(Operation operation) {
+        long count = count(operation);
+        return count == 0 ? 0 : (double) errors.get(operation).sum() / count;
+    }
+
+    double percentileMillis(Operation operation, double percentile) {
+        return histograms.get(operation).getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    List<String> summaryLines() {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("%-18s %8s %7s %9s %9s %9s %9s %9s",
+                "operation", "count", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = histograms.get(operation);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            lines.add(String.format("%-18s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f",
+                    operation.key(), histogram.getTotalCount(), errors.get(operation).sum(),
+                    percentileMillis(operation, 50), percentileMillis(operation, 90),
+                    percentileMillis(operation, 99), percentileMillis(operation, 99.9),
+                    histogram.getMaxValue() / 1000.0));
+        }
+        if (abandoned() > 0) {
+            lines.add("abandoned (never sent): " + abandoned());
+        }
+        return lines;
+    }
+
+    /** Writes one HdrHistogram percentile distribution (.hgrm, values in ms) per operation. */
+    void writeHistograms(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = histograms.get(operation);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(operation.key() + ".hgrm")))) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+}
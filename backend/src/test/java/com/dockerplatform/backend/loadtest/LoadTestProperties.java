@@ -0,0 +1,71 @@
+package com.dockerplatform.backend.loadtest;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "loadtest")
+public class LoadTestProperties {
+
+    /** Target arrival rate in requests per second. */
+    private double rate = 50;
+
+    /** Exponential inter-arrival times when true, a fixed interval otherwise. */
+    private boolean poissonArrivals = true;
+
+    private Duration warmup = Duration.ofSeconds(10);
+    private Duration duration = Duration.ofSeconds(60);
+
+    /** Worker threads issuing requests; arrivals beyond this queue up and their wait counts as latency. */
+    private int maxConcurrency = 64;
+
+    private Duration requestTimeout = Duration.ofSeconds(30);
+    private String reportDir = "target/loadtest";
+
+    private Seed seed = new Seed();
+
+    private LoginBurst loginBurst = new LoginBurst();
+
+    /** Relative weight per {@link Operation#key()}. */
+    private Map<String, Integer> weights = new HashMap<>();
+
+    /** SLO per {@link Operation#key()}. */
+    private Map<String, Slo> slo = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Seed {
+        private long randomSeed = 42;
+        private int users = 200;
+        private int repositoriesPerUser = 5;
+        private int tagsPerRepository = 40;
+        private int officialRepositories = 2;
+        private int tagsPerOfficialRepository = 3000;
+        private int starsPerUser = 10;
+    }
+
+    /** Periodic login spikes on top of the base rate, e.g. a CI fleet re-authenticating at once. */
+    @Getter
+    @Setter
+    public static class LoginBurst {
+        /** Logins per burst; 0 disables bursts. */
+        private int size = 0;
+        /** Time over which one burst's logins are spread evenly. */
+        private Duration window = Duration.ofSeconds(1);
+        /** Time between the starts of consecutive bursts; the first starts one interval into the run. */
+        private Duration interval = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class Slo {
+        private Duration p99;
+        private double maxErrorRate = 0.01;
+    }
+}
@@ -0,0 +1,162 @@
+package com.dockerplatform.backend.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: arrival times are drawn up front at the target mean rate, as a Poisson
+ * process by default or at a constant interval, and never wait for earlier responses. Each
+ * request's latency is measured from its scheduled start, so queueing in
+ * the generator or the server shows up in the histograms instead of silently lowering the rate
+ * (coordinated omission). Optional login bursts are merged into the same schedule: each burst
+ * spreads its logins evenly over a short window and repeats at a fixed interval.
+ */
+class OpenModelLoadGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(OpenModelLoadGenerator.class);
+
+    private final HttpClient client;
+    private final RegistryScenario scenario;
+    private final LoadTestProperties properties;
+
+    OpenModelLoadGenerator(HttpClient client, RegistryScenario scenario, LoadTestProperties properties) {
+        this.client = client;
+        this.scenario = scenario;
+        this.properties = properties;
+    }
+
+    void run(Duration duration, LatencyRecorder recorder, SplittableRandom random) throws InterruptedException {
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / properties.getRate();
+        ExecutorService workers = newWorkerPool();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        LoadTestProperties.LoginBurst burst = properties.getLoginBurst();
+        long burstIntervalNanos = burst.getInterval().toNanos();
+        boolean bursts = burst.getSize() > 0 && burstIntervalNanos > 0;
+        long burstSpacingNanos = bursts ? burst.getWindow().toNanos() / burst.getSize() : 0;
+        long intendedStart = start;
+        long burstStart = start + burstIntervalNanos;
+        int burstIndex = 0;
+        long maxDispatchLagNanos = 0;
+        long dispatched = 0;
+        long burstLogins = 0;
+
+        try {
+            while (true) {
+                long nextBurstArrival = bursts ? burstStart + burstIndex * burstSpacingNanos : Long.MAX_VALUE;
+                boolean fromBurst = nextBurstArrival < intendedStart;
+                long next = fromBurst ? nextBurstArrival : intendedStart;
+                if (next >= end) {
+                    break;
+                }
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                    continue;
+                }
+                maxDispatchLagNanos = Math.max(maxDispatchLagNanos, -wait);
+
+                Operation operation = fromBurst ? Operation.LOGIN : scenario.pick(random);
+                HttpRequest request = scenario.request(operation, random);
+                workers.execute(new ScheduledRequest(operation, request, next, recorder));
+                dispatched++;
+
+                if (fromBurst) {
+                    burstLogins++;
+                    if (++burstIndex == burst.getSize()) {
+                        burstIndex = 0;
+                        burstStart += burstIntervalNanos;
+                    }
+                } else {
+                    intendedStart += properties.isPoissonArrivals()
+                            ? (long) (-Math.log(1.0 - random.nextDouble()) * meanIntervalNanos)
+                            : (long) meanIntervalNanos;
+                }
+            }
+        } finally {
+            workers.shutdown();
+            long drainSeconds = properties.getRequestTimeout().toSeconds() + 5;
+            if (!workers.awaitTermination(drainSeconds, TimeUnit.SECONDS)) {
+                // Queued arrivals are the slowest of the run; dropping them would hide exactly the
+                // latency this generator exists to measure, so they count as failures at their age.
+                List<Runnable> abandoned = workers.shutdownNow();
+                long now = System.nanoTime();
+                for (Runnable runnable : abandoned) {
+                    ScheduledRequest request = (ScheduledRequest) runnable;
+                    recorder.recordAbandoned(request.operation(), now - request.scheduled());
+                }
+                logger.warn("[LoadTest] Requests still queued after {} s, {} abandoned", drainSeconds, abandoned.size());
+                // Let interrupted in-flight requests record their failure before the report is read.
+                workers.awaitTermination(5, TimeUnit.SECONDS);
+            }
+        }
+        logger.info("[LoadTest] Dispatched {} requests ({} burst logins) in {} s, max dispatcher lag {} ms",
+                dispatched, burstLogins, duration.toSeconds(), TimeUnit.NANOSECONDS.toMillis(maxDispatchLagNanos));
+    }
+
+    /** A queued arrival; keeps its operation and scheduled start so it can be recorded if abandoned. */
+    private final class ScheduledRequest implements Runnable {
+        private final Operation operation;
+        private final HttpRequest request;
+        private final long scheduled;
+        private final LatencyRecorder recorder;
+
+        ScheduledRequest(Operation operation, HttpRequest request, long scheduled, LatencyRecorder recorder) {
+            this.operation = operation;
+            this.request = request;
+            this.scheduled = scheduled;
+            this.recorder = recorder;
+        }
+
+        Operation operation() {
+            return operation;
+        }
+
+        long scheduled() {
+            return scheduled;
+        }
+
+        @Override
+        public void run() {
+            send(operation, request, scheduled, recorder);
+        }
+    }
+
+    private void send(Operation operation, HttpRequest request, long scheduled, LatencyRecorder recorder) {
+        boolean success;
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            success = response.statusCode() / 100 == 2;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            success = false;
+        } catch (Exception e) {
+            success = false;
+        }
+        recorder.record(operation, System.nanoTime() - scheduled, success);
+    }
+
+    private ExecutorService newWorkerPool() {
+        AtomicInteger threads = new AtomicInteger();
+        // Unbounded queue: arrivals keep their schedule even when every worker is busy.
+        return new ThreadPoolExecutor(properties.getMaxConcurrency(), properties.getMaxConcurrency(),
+                0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "loadtest-worker-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,25 @@
+package com.dockerplatform.backend.loadtest;
+
+/**
+ * Request types in the simulated registry traffic mix. The key is used for weights and SLOs
+ * in {@code loadtest.*} properties.
+ */
+public enum Operation {
+    LOGIN("login"),
+    BROWSE_REPOSITORY("browse-repository"),
+    BROWSE_TAGS("browse-tags"),
+    USER_SUMMARY("user-summary"),
+    PULL_TAG("pull-tag"),
+    PUSH_TAG("push-tag"),
+    STAR("star");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+}
@@ -0,0 +1,119 @@
+package com.dockerplatform.backend.loadtest;
+
+import com.dockerplatform.backend.security.JwtService;
+import com.dockerplatform.backend.service.UserSummaryService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Boots the backend, seeds it and replays the weighted registry traffic mix at the configured
+ * rate, then checks each operation against its SLO. Run with {@code mvn test -Ploadtest};
+ * every {@code loadtest.*} property can be overridden with {@code -D}.
+ */
+@Tag("load")
+@ActiveProfiles("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class RegistryLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(RegistryLoadTest.class);
+
+    @TestConfiguration
+    @EnableConfigurationProperties(LoadTestProperties.class)
+    static class Config {
+    }
+
+    @Value("${local.server.port}")
+    int port;
+
+    @Autowired
+    LoadTestProperties properties;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    BCryptPasswordEncoder passwordEncoder;
+
+    @Autowired
+    JwtService jwtService;
+
+    @Autowired
+    UserSummaryService userSummaryService;
+
+    @Test
+    void registryTrafficMeetsSlos() throws Exception {
+        assertTrue(properties.getSeed().getUsers() > 0 && properties.getSeed().getRepositoriesPerUser() > 0,
+                "loadtest.seed needs at least one user with one repository");
+
+        SeedData seed = new DataSeeder(jdbcTemplate, passwordEncoder, jwtService, userSummaryService)
+                .seed(properties.getSeed());
+        RegistryScenario scenario = new RegistryScenario(seed, "http://localhost:" + port,
+                properties.getRequestTimeout(), properties.getWeights());
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.getRequestTimeout())
+                .build();
+        OpenModelLoadGenerator generator = new OpenModelLoadGenerator(client, scenario, properties);
+        SplittableRandom random = new SplittableRandom(properties.getSeed().getRandomSeed());
+
+        logger.info("[LoadTest] Warming up for {} s at {} req/s", properties.getWarmup().toSeconds(), properties.getRate());
+        generator.run(properties.getWarmup(), new LatencyRecorder(), random);
+
+        logger.info("[LoadTest] Measuring for {} s at {} req/s", properties.getDuration().toSeconds(), properties.getRate());
+        LatencyRecorder recorder = new LatencyRecorder();
+        generator.run(properties.getDuration(), recorder, random);
+
+        recorder.summaryLines().forEach(logger::info);
+        Path reportDir = Path.of(properties.getReportDir());
+        recorder.writeHistograms(reportDir);
+        logger.info("[LoadTest] Histograms written to {}", reportDir.toAbsolutePath());
+
+        List<String> violations = checkSlos(scenario, recorder);
+        assertTrue(violations.isEmpty(), "SLO violations:\n" + String.join("\n", violations));
+    }
+
+    private List<String> checkSlos(RegistryScenario scenario, LatencyRecorder recorder) {
+        List<String> violations = new ArrayList<>();
+        if (recorder.abandoned() > 0) {
+            violations.add(recorder.abandoned() + " requests were still queued when the run ended and were never sent");
+        }
+        for (Operation operation : Operation.values()) {
+            LoadTestProperties.Slo slo = properties.getSlo().get(operation.key());
+            if (slo == null || scenario.weight(operation) == 0) {
+                continue;
+            }
+            if (recorder.count(operation) == 0) {
+                violations.add(operation.key() + ": no requests completed");
+                continue;
+            }
+            double p99 = recorder.percentileMillis(operation, 99);
+            if (slo.getP99() != null && p99 > slo.getP99().toMillis()) {
+                violations.add(String.format("%s: p99 %.1f ms > %d ms", operation.key(), p99, slo.getP99().toMillis()));
+            }
+            double errorRate = recorder.errorRate(operation);
+            if (errorRate > slo.getMaxErrorRate()) {
+                violations.add(String.format("%s: error rate %.2f%% > %.2f%%",
+                        operation.key(), errorRate * 100, slo.getMaxErrorRate() * 100));
+            }
+        }
+        return violations;
+    }
+}
@@ -0,0 +1,130 @@
+package com.dockerplatform.backend.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Weighted mix of registry requests against the seeded data: logins, JWT-authenticated browsing,
+ * tag pulls and pushes, and stars. Only called from the dispatcher thread.
+ */
+class RegistryScenario {
+
+    private static final int OFFICIAL_SHARE_PERCENT = 30;
+
+    private final SeedData seed;
+    private final String baseUrl;
+    private final Duration requestTimeout;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private long pushedTags;
+
+    RegistryScenario(SeedData seed, String baseUrl, Duration requestTimeout, Map<String, Integer> weights) {
+        this.seed = seed;
+        this.baseUrl = baseUrl;
+        this.requestTimeout = requestTimeout;
+        this.operations = Operation.values();
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += Math.max(0, weights.getOrDefault(operations[i].key(), 0));
+            cumulativeWeights[i] = total;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("At least one loadtest.weights entry must be positive");
+        }
+    }
+
+    int weight(Operation operation) {
+        int index = operation.ordinal();
+        return cumulativeWeights[index] - (index == 0 ? 0 : cumulativeWeights[index - 1]);
+    }
+
+    Operation pick(SplittableRandom random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    HttpRequest request(Operation operation, SplittableRandom random) {
+        SeedData.SeededUser user = pickOne(seed.users(), random);
+        return switch (operation) {
+            case LOGIN -> builder("/auth")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"username\":\"" + user.username() + "\",\"password\":\"" + seed.password() + "\"}"))
+                    .build();
+            case BROWSE_REPOSITORY -> {
+                SeedData.SeededRepository repository = pickPublic(random);
+                yield authenticated(repositoryPath(repository), user).GET().build();
+            }
+            case BROWSE_TAGS -> {
+                SeedData.SeededRepository repository = seed.officialRepositories().isEmpty()
+                        ? pickPublic(random)
+                        : pickOne(seed.officialRepositories(), random);
+                String query = "?size=25";
+                if (random.nextBoolean() && !repository.tags().isEmpty()) {
+                    String tag = pickOne(repository.tags(), random);
+                    query += "&prefix=" + tag.substring(0, Math.min(2, tag.length()));
+                }
+                yield authenticated(repositoryPath(repository) + "/tags" + query, user).GET().build();
+            }
+            case USER_SUMMARY -> authenticated("/user/" + user.id() + "/summary", user).GET().build();
+            case PULL_TAG -> {
+                SeedData.SeededRepository repository = pickPublic(random);
+                String tag = repository.tags().isEmpty() ? "latest" : pickOne(repository.tags(), random);
+                yield authenticated(repositoryPath(repository) + "/tags/" + tag, user).GET().build();
+            }
+            case PUSH_TAG -> {
+                SeedData.SeededRepository repository = pickOne(user.repositories(), random);
+                String tag = random.nextBoolean() && !repository.tags().isEmpty()
+                        ? pickOne(repository.tags(), random)
+                        : "build-" + (++pushedTags);
+                byte[] digest = new byte[32];
+                for (int i = 0; i < digest.length; i++) {
+                    digest[i] = (byte) random.nextInt(256);
+                }
+                String body = "{\"digest\":\"sha256:" + HexFormat.of().formatHex(digest)
+                        + "\",\"size\":" + (5_000_000L + random.nextLong(500_000_000L)) + "}";
+                yield authenticated(repositoryPath(repository) + "/tags/" + tag, user)
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString(body))
+                        .build();
+            }
+            case STAR -> authenticated(repositoryPath(pickPublic(random)) + "/star", user)
+                    .PUT(HttpRequest.BodyPublishers.noBody())
+                    .build();
+        };
+    }
+
+    private SeedData.SeededRepository pickPublic(SplittableRandom random) {
+        if (!seed.officialRepositories().isEmpty() && random.nextInt(100) < OFFICIAL_SHARE_PERCENT) {
+            return pickOne(seed.officialRepositories(), random);
+        }
+        return pickOne(seed.publicRepositories(), random);
+    }
+
+    private HttpRequest.Builder authenticated(String path, SeedData.SeededUser user) {
+        return builder(path).header("Authorization", "Bearer " + user.token());
+    }
+
+    private HttpRequest.Builder builder(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(requestTimeout);
+    }
+
+    private static String repositoryPath(SeedData.SeededRepository repository) {
+        return "/repositories/" + repository.owner() + "/" + repository.name();
+    }
+
+    private static <T> T pickOne(List<T> values, SplittableRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
@@ -0,0 +1,28 @@
+package com.dockerplatform.backend.loadtest;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * What {@link DataSeeder} inserted, so the scenario can address real users, repositories and tags.
+ */
+public record SeedData(
+        String password,
+        List<SeededUser> users,
+        List<SeededRepository> publicRepositories,
+        List<SeededRepository> officialRepositories
+) {
+
+    public record SeededUser(
+            UUID id,
+            String username,
+            String token,
+            List<SeededRepository> repositories
+    ) {}
+
+    public record SeededRepository(
+            String owner,
+            String name,
+            List<String> tags
+    ) {}
+}
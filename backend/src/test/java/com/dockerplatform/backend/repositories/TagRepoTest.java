@@ -0,0 +1,80 @@
+package com.dockerplatform.backend.repositories;
+
+import com.dockerplatform.backend.dto.TagDto;
+import com.dockerplatform.backend.models.Repository;
+import com.dockerplatform.backend.models.Tag;
+import com.dockerplatform.backend.models.User;
+import com.dockerplatform.backend.models.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@TestPropertySource(locations = "classpath:h2.properties")
+class TagRepoTest {
+
+    private static final int TAG_COUNT = 8;
+
+    @Autowired
+    UserRepo userRepo;
+
+    @Autowired
+    RepositoryRepo repositoryRepo;
+
+    @Autowired
+    TagRepo tagRepo;
+
+    private Repository repository;
+
+    @BeforeEach
+    void seed() {
+        User owner = new User();
+        owner.setUsername("owner");
+        owner.setPassword("password");
+        owner.setEmail("owner@test.local");
+        owner.setRole(UserRole.REGULAR);
+        userRepo.save(owner);
+
+        repository = new Repository();
+        repository.setOwner(owner);
+        repository.setName("app");
+        repository.setDescription("Test repository");
+        repository.setCreatedAt(0L);
+        repository.setPublic(true);
+        repositoryRepo.save(repository);
+
+        // Most tags share a pushedAt so paging has to break ties on id.
+        for (int i = 0; i < TAG_COUNT; i++) {
+            long pushedAt = i == 0 ? 2000L : i == TAG_COUNT - 1 ? 500L : 1000L;
+            tagRepo.save(new Tag(null, "tag-" + i, "sha256:" + i, 100, 0L, pushedAt, repository));
+        }
+    }
+
+    @Test
+    void tiesOnPushedAtArePagedWithoutGapsOrDuplicates() {
+        List<TagDto> seen = new ArrayList<>();
+        List<TagDto> page = tagRepo.findFirstPage(repository.getId(), "%", Limit.of(3));
+        while (!page.isEmpty()) {
+            seen.addAll(page);
+            TagDto last = page.get(page.size() - 1);
+            page = tagRepo.findPageAfter(repository.getId(), "%", last.pushedAt(), last.id(), Limit.of(3));
+        }
+
+        assertEquals(TAG_COUNT, seen.size());
+        assertEquals(TAG_COUNT, new HashSet<>(seen.stream().map(TagDto::name).toList()).size());
+        // Ties are ordered by the database's UUID ordering, so only pushedAt order is checked here.
+        for (int i = 1; i < seen.size(); i++) {
+            assertTrue(seen.get(i - 1).pushedAt() >= seen.get(i).pushedAt());
+        }
+    }
+}
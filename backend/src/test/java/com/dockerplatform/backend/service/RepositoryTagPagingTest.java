@@ -0,0 +1,93 @@
+package com.dockerplatform.backend.service;
+
+import com.dockerplatform.backend.TestUsers;
+import com.dockerplatform.backend.dto.TagDto;
+import com.dockerplatform.backend.dto.TagPageDto;
+import com.dockerplatform.backend.models.Repository;
+import com.dockerplatform.backend.models.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@TestPropertySource(locations = "classpath:h2.properties")
+class RepositoryTagPagingTest {
+
+    private static final List<String> NAMES = List.of("1.0", "1.1", "1_2", "1x2", "1%3", "1!4", "latest");
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    RepositoryService repositoryService;
+
+    private Repository repository;
+
+    @BeforeEach
+    void seed() {
+        User owner = TestUsers.register(userService, "owner");
+        repository = repositoryService.create(owner, "app", "Test repository", true);
+        // Pushed back to back, so many of these share a pushedAt millisecond.
+        for (String name : NAMES) {
+            repositoryService.pushTag(repository, name, "sha256:" + name, 100);
+        }
+    }
+
+    @Test
+    void cursorWalksEveryTagOnce() {
+        List<String> seen = new ArrayList<>();
+        TagPageDto page = repositoryService.findTags(repository.getId(), null, null, 2);
+        while (true) {
+            page.tags().stream().map(TagDto::name).forEach(seen::add);
+            if (page.nextCursor() == null) {
+                break;
+            }
+            page = repositoryService.findTags(repository.getId(), null, page.nextCursor(), 2);
+        }
+
+        assertEquals(NAMES.stream().sorted().toList(), seen.stream().sorted().toList());
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        TagPageDto page = repositoryService.findTags(repository.getId(), null, null, NAMES.size());
+        assertEquals(NAMES.size(), page.tags().size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void prefixWildcardsMatchLiterally() {
+        assertEquals(List.of("1_2"), names(repositoryService.findTags(repository.getId(), "1_", null, 10)));
+        assertEquals(List.of("1%3"), names(repositoryService.findTags(repository.getId(), "1%", null, 10)));
+        assertEquals(List.of("1!4"), names(repositoryService.findTags(repository.getId(), "1!", null, 10)));
+        assertEquals(List.of("1.0", "1.1"), names(repositoryService.findTags(repository.getId(), "1.", null, 10)));
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        UUID id = repository.getId();
+        assertThrows(IllegalArgumentException.class, () -> repositoryService.findTags(id, null, "%%%", 10));
+        assertThrows(IllegalArgumentException.class, () -> repositoryService.findTags(id, null, encode("no-separator"), 10));
+        assertThrows(IllegalArgumentException.class, () -> repositoryService.findTags(id, null, encode("soon:" + UUID.randomUUID()), 10));
+        assertThrows(IllegalArgumentException.class, () -> repositoryService.findTags(id, null, encode("1000:not-a-uuid"), 10));
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes());
+    }
+
+    private static List<String> names(TagPageDto page) {
+        return page.tags().stream().map(TagDto::name).sorted().toList();
+    }
+}
@@ -0,0 +1,96 @@
+package com.dockerplatform.backend.service;
+
+import com.dockerplatform.backend.TestUsers;
+import com.dockerplatform.backend.dto.UserSummaryDto;
+import com.dockerplatform.backend.models.Repository;
+import com.dockerplatform.backend.models.User;
+import com.dockerplatform.backend.repositories.UserSummaryRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@TestPropertySource(locations = "classpath:h2.properties")
+class UserSummaryMaintenanceTest {
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    RepositoryService repositoryService;
+
+    @Autowired
+    UserSummaryService userSummaryService;
+
+    @Autowired
+    UserSummaryRepo userSummaryRepo;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @BeforeEach
+    void clearCache() {
+        cacheManager.getCache(UserSummaryService.CACHE_NAME).clear();
+    }
+
+    @Test
+    void deltasMatchReconcileThroughRepositoryLifecycle() {
+        User owner = TestUsers.register(userService, "owner");
+        User fan = TestUsers.register(userService, "fan");
+        Repository repository = repositoryService.create(owner, "app", "Test repository", true);
+
+        repositoryService.pushTag(repository, "1.0", "sha256:a", 100);
+        repositoryService.pushTag(repository, "1.1", "sha256:b", 200);
+        repositoryService.pushTag(repository, "1.0", "sha256:c", 150);
+        assertTrue(repositoryService.star(fan, repository));
+        assertFalse(repositoryService.star(fan, repository));
+        assertTrue(repositoryService.pullTag(repository, "1.1").isPresent());
+
+        assertSummary(owner, 1, 1, 1, 350);
+        assertFalse(userSummaryService.reconcile(owner.getId()), "summary drifted from the source tables");
+
+        repositoryService.delete(repository);
+
+        assertSummary(owner, 0, 0, 0, 0);
+        assertFalse(userSummaryService.reconcile(owner.getId()), "summary drifted from the source tables");
+    }
+
+    @Test
+    void missingSummaryIsBuiltOnRead() {
+        User owner = TestUsers.register(userService, "legacy");
+        Repository repository = repositoryService.create(owner, "app", "Test repository", true);
+        repositoryService.pushTag(repository, "latest", "sha256:a", 100);
+        userSummaryRepo.deleteById(owner.getId());
+
+        assertSummary(owner, 1, 0, 0, 100);
+    }
+
+    @Test
+    void missingSummaryIsBuiltBeforeApplyingDelta() {
+        User owner = TestUsers.register(userService, "legacy");
+        Repository repository = repositoryService.create(owner, "app", "Test repository", true);
+        userSummaryRepo.deleteById(owner.getId());
+
+        repositoryService.pushTag(repository, "latest", "sha256:a", 100);
+
+        assertSummary(owner, 1, 0, 0, 100);
+        assertFalse(userSummaryService.reconcile(owner.getId()), "summary drifted from the source tables");
+    }
+
+    private void assertSummary(User owner, long repositories, long stars, long pulls, long tagSize) {
+        UserSummaryDto summary = userSummaryService.findByUserId(owner.getId());
+        assertNotNull(summary);
+        assertEquals(repositories, summary.repositoryCount());
+        assertEquals(stars, summary.totalStars());
+        assertEquals(pulls, summary.totalPulls());
+        assertEquals(tagSize, summary.totalTagSize());
+    }
+}